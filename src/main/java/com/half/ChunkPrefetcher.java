@@ -0,0 +1,184 @@
+package com.half;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Defers long-range effects until the chunks around their target are loaded.
+ *
+ * Instead of letting an explosion or lightning strike force a synchronous chunk load on the
+ * tick thread, a short-lived chunk ticket is placed around the target and the effect is parked
+ * until every chunk in range reports loaded. Parked effects are dropped after a timeout, and
+ * each player may only have a few in flight so remote shots cannot flood the chunk loader.
+ * Tickets are removed as soon as their effect resolves.
+ *
+ * {@link #loadedRayLength} lets callers trace long rays through loaded chunks only and
+ * use the first unloaded chunk on the ray as the deferral point.
+ */
+public final class ChunkPrefetcher {
+    private static final int MAX_IN_FLIGHT_PER_PLAYER = 4;
+    private static final int TIMEOUT_TICKS = 100;
+    private static final int MAX_RADIUS = 2; // Chunks
+
+    private final EventLog events;
+    private final List<PendingEffect> pending = new ArrayList<>();
+    private final List<PendingEffect> ready = new ArrayList<>();
+    private final Object2IntOpenHashMap<UUID> inFlight = new Object2IntOpenHashMap<>();
+    private int currentTick;
+
+    public ChunkPrefetcher(EventLog events) {
+        this.events = events;
+    }
+
+    public void register() {
+        ServerTickEvents.END_SERVER_TICK.register(this::onTickEnd);
+        // Parked effects hold world and player references; never carry them into the next session
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            pending.clear();
+            ready.clear();
+            inFlight.clear();
+        });
+    }
+
+    /**
+     * Returns how far along {@code start -> end} the ray stays inside loaded chunks: the full
+     * length if every chunk column it crosses is loaded, otherwise the distance to the boundary
+     * of the first unloaded one.
+     */
+    public double loadedRayLength(ServerWorld world, Vec3d start, Vec3d end) {
+        double length = start.distanceTo(end);
+        if (length < 1.0E-6) {
+            return length;
+        }
+
+        double dx = (end.x - start.x) / length;
+        double dz = (end.z - start.z) / length;
+        int cx = MathHelper.floor(start.x) >> 4;
+        int cz = MathHelper.floor(start.z) >> 4;
+        int stepX = dx > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+        double tMaxX = dx == 0 ? Double.POSITIVE_INFINITY : (((stepX > 0 ? cx + 1 : cx) << 4) - start.x) / dx;
+        double tMaxZ = dz == 0 ? Double.POSITIVE_INFINITY : (((stepZ > 0 ? cz + 1 : cz) << 4) - start.z) / dz;
+        double tDeltaX = dx == 0 ? Double.POSITIVE_INFINITY : 16.0 / Math.abs(dx);
+        double tDeltaZ = dz == 0 ? Double.POSITIVE_INFINITY : 16.0 / Math.abs(dz);
+
+        // 2D DDA over the chunk columns the ray crosses
+        double t = 0.0;
+        while (t < length) {
+            if (!world.getChunkManager().isChunkLoaded(cx, cz)) {
+                return t;
+            }
+            if (tMaxX < tMaxZ) {
+                t = tMaxX;
+                tMaxX += tDeltaX;
+                cx += stepX;
+            } else {
+                t = tMaxZ;
+                tMaxZ += tDeltaZ;
+                cz += stepZ;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Runs {@code effect} now if the chunks within {@code radiusBlocks} of {@code target} are
+     * already loaded, otherwise requests them and runs it once they are. Must be called on the
+     * server thread. Returns false if the request was rejected because the owner is at its cap.
+     */
+    public boolean submit(ServerWorld world, UUID owner, Vec3d target, double radiusBlocks, Runnable effect) {
+        ChunkPos center = new ChunkPos((int) Math.floor(target.x) >> 4, (int) Math.floor(target.z) >> 4);
+        int radius = Math.min(MAX_RADIUS, Math.max(0, (int) Math.ceil(radiusBlocks / 16.0)));
+
+        if (isLoaded(world, center, radius)) {
+            effect.run();
+            return true;
+        }
+
+        int ownerCount = inFlight.getInt(owner);
+        if (ownerCount >= MAX_IN_FLIGHT_PER_PLAYER) {
+            if (events.shouldRecord(EventLog.EventType.PREFETCH_REJECTED)) {
+                events.record(EventLog.EventType.PREFETCH_REJECTED, ownerCount, target.x, target.y, target.z);
+            }
+            return false;
+        }
+
+        world.getChunkManager().addTicket(ChunkTicketType.PORTAL, center, radius);
+        inFlight.put(owner, ownerCount + 1);
+        pending.add(new PendingEffect(world, owner, center, radius, currentTick + TIMEOUT_TICKS, effect));
+        return true;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void onTickEnd(MinecraftServer server) {
+        currentTick++;
+        if (pending.isEmpty()) return;
+
+        Iterator<PendingEffect> it = pending.iterator();
+        while (it.hasNext()) {
+            PendingEffect entry = it.next();
+            boolean loaded = isLoaded(entry.world, entry.center, entry.radius);
+            if (!loaded && currentTick < entry.deadlineTick) {
+                continue;
+            }
+
+            it.remove();
+            release(entry.owner);
+            entry.world.getChunkManager().removeTicket(ChunkTicketType.PORTAL, entry.center, entry.radius);
+
+            if (loaded) {
+                ready.add(entry);
+            } else if (events.shouldRecord(EventLog.EventType.PREFETCH_TIMEOUT)) {
+                events.record(EventLog.EventType.PREFETCH_TIMEOUT, entry.center.x, entry.center.z);
+            }
+        }
+
+        // Run after iterating, effects may submit follow-up prefetches
+        for (PendingEffect entry : ready) {
+            try {
+                entry.effect.run();
+            } catch (Exception e) {
+                ThunderPunch.LOGGER.error("Error running deferred effect", e);
+            }
+        }
+        ready.clear();
+    }
+
+    private void release(UUID owner) {
+        int remaining = inFlight.getInt(owner) - 1;
+        if (remaining <= 0) {
+            inFlight.removeInt(owner);
+        } else {
+            inFlight.put(owner, remaining);
+        }
+    }
+
+    private static boolean isLoaded(ServerWorld world, ChunkPos center, int radius) {
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (!world.getChunkManager().isChunkLoaded(center.x + dx, center.z + dz)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private record PendingEffect(ServerWorld world, UUID owner, ChunkPos center, int radius, int deadlineTick, Runnable effect) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.half;
+
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.entity.player.PlayerEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player hit history driving combo multipliers.
+ *
+ * Each player gets fixed-size primitive ring buffers (hit tick, target id, hit type) allocated
+ * when they join and released when they disconnect. Streak lengths are maintained incrementally
+ * as hits are recorded and hit types are only inspected over the current streak (at most the
+ * buffer size), so computing a combo is O(1) and allocation-free on every attack. All methods
+ * must be called on the server thread.
+ */
+public final class ComboTracker {
+    private static final int HISTORY_SIZE = 8; // Must be a power of two
+    private static final int MASK = HISTORY_SIZE - 1;
+    private static final long COMBO_WINDOW_TICKS = 30; // Max gap between hits that keeps a streak
+    private static final float STREAK_BONUS = 0.15f;
+    private static final float FOCUS_BONUS = 0.2f;
+    private static final int FOCUS_STREAK = 3;
+    private static final float VARIETY_BONUS = 0.25f;
+
+    public enum HitType { MELEE, RAYCAST, PIERCING }
+
+    private static final int HIT_TYPE_COUNT = HitType.values().length;
+    private static final int ALL_HIT_TYPES = (1 << HIT_TYPE_COUNT) - 1;
+
+    private final Map<UUID, HitHistory> histories = new HashMap<>();
+
+    public void register() {
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) ->
+                histories.put(handler.getPlayer().getUuid(), new HitHistory()));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+                histories.remove(handler.getPlayer().getUuid()));
+    }
+
+    /**
+     * Records a hit and returns the player's updated history, or null for players without
+     * one (e.g. fake players that never joined through the network).
+     */
+    public HitHistory record(PlayerEntity player, int targetId, HitType type, long tick) {
+        HitHistory history = histories.get(player.getUuid());
+        if (history != null) {
+            history.record(targetId, type, tick);
+        }
+        return history;
+    }
+
+    public static final class HitHistory {
+        private final long[] ticks = new long[HISTORY_SIZE];
+        private final int[] targetIds = new int[HISTORY_SIZE];
+        private final byte[] types = new byte[HISTORY_SIZE];
+        private int head;
+        private int size;
+        private int streak;
+        private int focusStreak;
+
+        private void record(int targetId, HitType type, long tick) {
+            if (size > 0) {
+                int last = (head - 1) & MASK;
+                boolean inWindow = tick - ticks[last] <= COMBO_WINDOW_TICKS;
+                streak = inWindow ? Math.min(streak + 1, HISTORY_SIZE) : 1;
+                focusStreak = inWindow && targetIds[last] == targetId ? focusStreak + 1 : 1;
+            } else {
+                streak = 1;
+                focusStreak = 1;
+            }
+
+            if (size < HISTORY_SIZE) {
+                size++;
+            }
+
+            ticks[head] = tick;
+            targetIds[head] = targetId;
+            types[head] = (byte) type.ordinal();
+            head = (head + 1) & MASK;
+        }
+
+        public int getStreak() {
+            return streak;
+        }
+
+        /** A full streak of hits, each within the combo window of the previous one. */
+        public boolean isFinisher() {
+            return streak == HISTORY_SIZE;
+        }
+
+        public float getMultiplier() {
+            float multiplier = 1.0f + STREAK_BONUS * (streak - 1);
+            if (focusStreak >= FOCUS_STREAK) {
+                multiplier += FOCUS_BONUS;
+            }
+            if (streak >= HIT_TYPE_COUNT && streakHasEveryHitType()) {
+                multiplier += VARIETY_BONUS;
+            }
+            return multiplier;
+        }
+
+        /** Starts a new streak, e.g. after a finisher has been consumed. */
+        public void resetStreak() {
+            streak = 0;
+            focusStreak = 0;
+        }
+
+        // Only the hits of the current streak count, earlier broken streaks are ignored
+        private boolean streakHasEveryHitType() {
+            int seen = 0;
+            for (int i = 1; i <= streak; i++) {
+                seen |= 1 << types[(head - i) & MASK];
+            }
+            return seen == ALL_HIT_TYPES;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.half;
+
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured event log for ThunderPunch hot paths.
+ *
+ * Producers write fixed-layout records (type, timestamp, six numeric fields) into a
+ * pre-allocated lock-free ring buffer and return immediately. A background virtual thread
+ * drains the buffer, formats the records and appends them to rotating files under
+ * {@code logs/thunderpunch}. When the buffer is full new records are dropped and counted
+ * instead of blocking the server thread.
+ */
+public final class EventLog {
+    // Ring buffer layout
+    private static final int CAPACITY = 8192; // Records, must be a power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final int RECORD_WIDTH = 8; // type, timestamp, 6 payload slots
+    private static final int PAYLOAD_SLOTS = RECORD_WIDTH - 2;
+
+    // File output
+    private static final long MAX_FILE_BYTES = 8L * 1024 * 1024;
+    private static final int MAX_ROTATED_FILES = 5;
+    private static final String FILE_NAME = "events";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    public enum EventType {
+        RAYCAST_ENTITY(4, "distance", "x", "y", "z"),
+        RAYCAST_BLOCK(4, "distance", "x", "y", "z"),
+        RAYCAST_MISS(16, "distance", "x", "y", "z"),
+        PIERCING_BEAM(4, "hits", "length", "x", "y", "z"),
+        CREEPER_SCHEDULED(1, "delaySeconds"),
+        CREEPER_SPAWNED(1, "x", "y", "z"),
+        TIER_CHANGE(1, "from", "to", "mspt"),
+        PREFETCH_REJECTED(1, "inFlight", "x", "y", "z"),
+        PREFETCH_TIMEOUT(1, "chunkX", "chunkZ"),
+        SPAWNS_DESPAWNED(1, "despawned", "tracked"),
+        COMBO_FINISHER(1, "streak", "multiplier");
+
+        private final int sampleEvery;
+        private final String[] fields;
+
+        EventType(int defaultSampleEvery, String... fields) {
+            // Overridable per type, e.g. -Dthunderpunch.events.sample.RAYCAST_MISS=64
+            this.sampleEvery = Math.max(1, Integer.getInteger("thunderpunch.events.sample." + name(), defaultSampleEvery));
+            this.fields = fields;
+        }
+    }
+
+    private final long[] records = new long[CAPACITY * RECORD_WIDTH];
+    private final AtomicLongArray published = new AtomicLongArray(CAPACITY);
+    private final AtomicLongArray sampleCounters = new AtomicLongArray(EventType.values().length);
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long tail;
+    private volatile boolean running;
+
+    private final Path directory;
+    private final StringBuilder lineBuffer = new StringBuilder(4096);
+    private FileChannel channel;
+    private long fileBytes;
+    private Thread writer;
+
+    public EventLog(Path directory) {
+        this.directory = directory;
+    }
+
+    public static EventLog createDefault() {
+        return new EventLog(FabricLoader.getInstance().getGameDir().resolve("logs").resolve(ThunderPunch.MOD_ID));
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        writer = Thread.ofVirtual().name("thunderpunch-eventlog").start(this::drainLoop);
+    }
+
+    public void close() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Per-type sampling gate. Call before computing any expensive payload values so that
+     * unsampled events cost a single atomic increment.
+     */
+    public boolean shouldRecord(EventType type) {
+        if (!running) return false;
+        int every = type.sampleEvery;
+        return every == 1 || sampleCounters.getAndIncrement(type.ordinal()) % every == 0;
+    }
+
+    public void record(EventType type, double a) {
+        record(type, a, 0, 0, 0, 0, 0);
+    }
+
+    public void record(EventType type, double a, double b) {
+        record(type, a, b, 0, 0, 0, 0);
+    }
+
+    public void record(EventType type, double a, double b, double c) {
+        record(type, a, b, c, 0, 0, 0);
+    }
+
+    public void record(EventType type, double a, double b, double c, double d) {
+        record(type, a, b, c, d, 0, 0);
+    }
+
+    public void record(EventType type, double a, double b, double c, double d, double e) {
+        record(type, a, b, c, d, e, 0);
+    }
+
+    public void record(EventType type, double a, double b, double c, double d, double e, double f) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= CAPACITY) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int base = (int) (sequence & MASK) * RECORD_WIDTH;
+        records[base] = type.ordinal();
+        records[base + 1] = System.currentTimeMillis();
+        records[base + 2] = Double.doubleToRawLongBits(a);
+        records[base + 3] = Double.doubleToRawLongBits(b);
+        records[base + 4] = Double.doubleToRawLongBits(c);
+        records[base + 5] = Double.doubleToRawLongBits(d);
+        records[base + 6] = Double.doubleToRawLongBits(e);
+        records[base + 7] = Double.doubleToRawLongBits(f);
+
+        // Publishing the slot makes the plain writes above visible to the writer thread
+        published.set((int) (sequence & MASK), sequence + 1);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Writer thread
+    private void drainLoop() {
+        try {
+            openChannel();
+            while (running) {
+                if (drainBatch() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            while (drainBatch() > 0) {
+                // Flush whatever was published before close()
+            }
+        } catch (IOException e) {
+            ThunderPunch.LOGGER.error("Event log writer failed, structured events disabled", e);
+            running = false;
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private int drainBatch() throws IOException {
+        EventType[] types = EventType.values();
+        StringBuilder sb = lineBuffer;
+        sb.setLength(0);
+
+        long next = tail;
+        int count = 0;
+        while (count < CAPACITY && published.get((int) (next & MASK)) == next + 1) {
+            int base = (int) (next & MASK) * RECORD_WIDTH;
+            appendRecord(sb, types[(int) records[base]], base);
+            next++;
+            count++;
+            tail = next; // Releases the slot back to producers
+        }
+
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            DateTimeFormatter.ISO_INSTANT.formatTo(Instant.now(), sb);
+            sb.append(" DROPPED count=").append(lost).append('\n');
+        }
+
+        if (sb.length() > 0) {
+            write(sb);
+        }
+        return count;
+    }
+
+    private void appendRecord(StringBuilder sb, EventType type, int base) {
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(records[base + 1]), sb);
+        sb.append(' ').append(type.name());
+        for (int i = 0; i < type.fields.length && i < PAYLOAD_SLOTS; i++) {
+            double value = Double.longBitsToDouble(records[base + 2 + i]);
+            sb.append(' ').append(type.fields[i]).append('=');
+            if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+                sb.append((long) value);
+            } else {
+                sb.append(Math.round(value * 100.0) / 100.0);
+            }
+        }
+        sb.append('\n');
+    }
+
+    private void write(CharSequence text) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+        if (fileBytes + buffer.remaining() > MAX_FILE_BYTES) {
+            rotate();
+        }
+        while (buffer.hasRemaining()) {
+            fileBytes += channel.write(buffer);
+        }
+    }
+
+    private void openChannel() throws IOException {
+        Files.createDirectories(directory);
+        channel = FileChannel.open(currentFile(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileBytes = channel.size();
+    }
+
+    private void rotate() throws IOException {
+        closeChannel();
+        Files.deleteIfExists(rotatedFile(MAX_ROTATED_FILES));
+        for (int i = MAX_ROTATED_FILES - 1; i >= 1; i--) {
+            Path source = rotatedFile(i);
+            if (Files.exists(source)) {
+                Files.move(source, rotatedFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(currentFile(), rotatedFile(1), StandardCopyOption.REPLACE_EXISTING);
+        openChannel();
+    }
+
+    private void closeChannel() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            ThunderPunch.LOGGER.warn("Failed to close event log file", e);
+        }
+        channel = null;
+    }
+
+    private Path currentFile() {
+        return directory.resolve(FILE_NAME + ".log");
+    }
+
+    private Path rotatedFile(int index) {
+        return directory.resolve(FILE_NAME + "." + index + ".log");
+    }
+}
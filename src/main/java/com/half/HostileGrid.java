@@ -0,0 +1,231 @@
+package com.half;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.Monster;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Spatial hash grid of hostile mobs used for chain lightning neighbor lookups.
+ *
+ * Mobs enter and leave the grid through entity load/unload events, and a bounded number of
+ * slots are re-bucketed each world tick, so the grid is maintained incrementally instead of
+ * being rebuilt from box queries. Queries scan one extra ring of cells to tolerate positions
+ * that have not been refreshed yet, examine a capped number of candidates, and write into
+ * caller-supplied arrays so they never allocate.
+ *
+ * All methods must be called on the server thread.
+ */
+public final class HostileGrid {
+    private static final int CELL_SHIFT = 3; // 8-block cells
+    private static final int REFRESH_PER_TICK = 256;
+    private static final int MAX_CANDIDATES = 256;
+    private static final int MAX_RESULTS = 16;
+    private static final int NONE = -1;
+
+    private final Map<ServerWorld, Grid> grids = new IdentityHashMap<>();
+    private final double[] scratchDistances = new double[MAX_RESULTS];
+
+    public void register() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof Monster && entity instanceof LivingEntity living) {
+                grids.computeIfAbsent(world, w -> new Grid()).add(living);
+            }
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            Grid grid = grids.get(world);
+            if (grid != null) {
+                grid.remove(entity.getId());
+            }
+        });
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            Grid grid = grids.get(world);
+            if (grid != null) {
+                grid.refresh(REFRESH_PER_TICK);
+            }
+        });
+        // Drop the grid with its world so integrated server sessions do not leak worlds or mobs
+        ServerWorldEvents.UNLOAD.register((server, world) -> grids.remove(world));
+    }
+
+    /**
+     * Writes the hostile mobs nearest to {@code (x, y, z)} within {@code radius} into
+     * {@code out}, nearest first, skipping the first {@code excludeCount} ids in
+     * {@code excludeIds}. Returns the number of entries written.
+     */
+    public int findNearest(ServerWorld world, double x, double y, double z, double radius,
+                           int[] excludeIds, int excludeCount, LivingEntity[] out) {
+        Grid grid = grids.get(world);
+        int k = Math.min(out.length, MAX_RESULTS);
+        if (grid == null || k == 0) return 0;
+
+        double radiusSq = radius * radius;
+        int minX = (MathHelper.floor(x - radius) >> CELL_SHIFT) - 1;
+        int maxX = (MathHelper.floor(x + radius) >> CELL_SHIFT) + 1;
+        int minY = (MathHelper.floor(y - radius) >> CELL_SHIFT) - 1;
+        int maxY = (MathHelper.floor(y + radius) >> CELL_SHIFT) + 1;
+        int minZ = (MathHelper.floor(z - radius) >> CELL_SHIFT) - 1;
+        int maxZ = (MathHelper.floor(z + radius) >> CELL_SHIFT) + 1;
+
+        double[] distances = scratchDistances;
+        int found = 0;
+        int examined = 0;
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    for (int slot = grid.heads.get(cellKey(cx, cy, cz)); slot != NONE; slot = grid.next[slot]) {
+                        if (++examined > MAX_CANDIDATES) {
+                            return found;
+                        }
+
+                        LivingEntity entity = grid.entities[slot];
+                        if (!entity.isAlive() || contains(excludeIds, excludeCount, grid.ids[slot])) continue;
+
+                        double distSq = entity.squaredDistanceTo(x, y, z);
+                        if (distSq > radiusSq || (found == k && distSq >= distances[k - 1])) continue;
+
+                        // Insertion into the sorted top-k
+                        int i = found < k ? found++ : k - 1;
+                        while (i > 0 && distances[i - 1] > distSq) {
+                            distances[i] = distances[i - 1];
+                            out[i] = out[i - 1];
+                            i--;
+                        }
+                        distances[i] = distSq;
+                        out[i] = entity;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean contains(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) return true;
+        }
+        return false;
+    }
+
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((long) (cx & 0x1FFFFF) << 42) | ((long) (cy & 0x1FFFFF) << 21) | (cz & 0x1FFFFF);
+    }
+
+    private static long cellKeyOf(Entity entity) {
+        return cellKey(MathHelper.floor(entity.getX()) >> CELL_SHIFT,
+                MathHelper.floor(entity.getY()) >> CELL_SHIFT,
+                MathHelper.floor(entity.getZ()) >> CELL_SHIFT);
+    }
+
+    // Slots are linked into per-cell doubly linked lists; freed slots are reused via a free list
+    private static final class Grid {
+        private final Long2IntOpenHashMap heads = new Long2IntOpenHashMap();
+        private final Int2IntOpenHashMap slotById = new Int2IntOpenHashMap();
+        private LivingEntity[] entities = new LivingEntity[64];
+        private int[] ids = new int[64];
+        private long[] cells = new long[64];
+        private int[] next = new int[64];
+        private int[] prev = new int[64];
+        private int highWater;
+        private int freeHead = NONE;
+        private int refreshCursor;
+
+        Grid() {
+            heads.defaultReturnValue(NONE);
+            slotById.defaultReturnValue(NONE);
+        }
+
+        void add(LivingEntity entity) {
+            if (slotById.get(entity.getId()) != NONE) return;
+
+            int slot;
+            if (freeHead != NONE) {
+                slot = freeHead;
+                freeHead = next[slot];
+            } else {
+                if (highWater == entities.length) {
+                    grow();
+                }
+                slot = highWater++;
+            }
+
+            entities[slot] = entity;
+            ids[slot] = entity.getId();
+            slotById.put(entity.getId(), slot);
+            link(slot, cellKeyOf(entity));
+        }
+
+        void remove(int id) {
+            int slot = slotById.remove(id);
+            if (slot == NONE) return;
+
+            unlink(slot);
+            entities[slot] = null;
+            next[slot] = freeHead;
+            freeHead = slot;
+        }
+
+        void refresh(int budget) {
+            for (int n = 0; n < budget && highWater > 0; n++) {
+                if (refreshCursor >= highWater) {
+                    refreshCursor = 0;
+                }
+                int slot = refreshCursor++;
+                LivingEntity entity = entities[slot];
+                if (entity == null) continue;
+
+                long key = cellKeyOf(entity);
+                if (key != cells[slot]) {
+                    unlink(slot);
+                    link(slot, key);
+                }
+            }
+        }
+
+        private void link(int slot, long key) {
+            int head = heads.get(key);
+            cells[slot] = key;
+            prev[slot] = NONE;
+            next[slot] = head;
+            if (head != NONE) {
+                prev[head] = slot;
+            }
+            heads.put(key, slot);
+        }
+
+        private void unlink(int slot) {
+            int before = prev[slot];
+            int after = next[slot];
+            if (before != NONE) {
+                next[before] = after;
+            } else if (after != NONE) {
+                heads.put(cells[slot], after);
+            } else {
+                heads.remove(cells[slot]);
+            }
+            if (after != NONE) {
+                prev[after] = before;
+            }
+        }
+
+        private void grow() {
+            int capacity = entities.length * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            cells = Arrays.copyOf(cells, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.half;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Watches live server tick durations and moves ThunderPunch between quality tiers.
+ *
+ * Tick time is measured between START_SERVER_TICK and END_SERVER_TICK and smoothed with an
+ * exponential moving average. Escalation happens as soon as the smoothed MSPT crosses a
+ * tier's enter threshold; recovery requires MSPT to fall below the lower exit threshold and
+ * the current tier to have been held for a minimum number of ticks, so the tier does not flap.
+ */
+public final class LoadShedder {
+    private static final double EWMA_ALPHA = 0.05; // ~20 tick smoothing window
+    private static final int EVALUATE_INTERVAL_TICKS = 20;
+    private static final int MIN_TIER_DWELL_TICKS = 200;
+
+    public enum Tier {
+        //      enterMspt exitMspt explosion particles spawns visualLightning
+        FULL(0.0, 0.0, 1.0f, 1.0, 1.0f, false),
+        REDUCED(40.0, 32.0, 0.6f, 0.5, 0.5f, false),
+        MINIMAL(47.0, 40.0, 0.3f, 0.2, 0.15f, true),
+        CRITICAL(55.0, 48.0, 0.0f, 0.0, 0.0f, true);
+
+        private final double enterMspt;
+        private final double exitMspt;
+        private final float explosionScale;
+        private final double particleDensity;
+        private final float spawnScale;
+        private final boolean visualOnlyLightning;
+
+        Tier(double enterMspt, double exitMspt, float explosionScale, double particleDensity, float spawnScale, boolean visualOnlyLightning) {
+            this.enterMspt = enterMspt;
+            this.exitMspt = exitMspt;
+            this.explosionScale = explosionScale;
+            this.particleDensity = particleDensity;
+            this.spawnScale = spawnScale;
+            this.visualOnlyLightning = visualOnlyLightning;
+        }
+
+        public float getExplosionScale() { return explosionScale; }
+        public double getParticleDensity() { return particleDensity; }
+        public float getSpawnScale() { return spawnScale; }
+        public boolean isVisualOnlyLightning() { return visualOnlyLightning; }
+    }
+
+    private final EventLog events;
+    private volatile Tier tier = Tier.FULL;
+    private volatile double averageMspt;
+    private long tickStartNanos;
+    private long ticks;
+    private long tierChangedAtTick;
+    private int tierChanges;
+
+    public LoadShedder(EventLog events) {
+        this.events = events;
+    }
+
+    public void register() {
+        ServerTickEvents.START_SERVER_TICK.register(this::onTickStart);
+        ServerTickEvents.END_SERVER_TICK.register(this::onTickEnd);
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    public double getAverageMspt() {
+        return averageMspt;
+    }
+
+    public int getTierChanges() {
+        return tierChanges;
+    }
+
+    private void onTickStart(MinecraftServer server) {
+        tickStartNanos = System.nanoTime();
+    }
+
+    private void onTickEnd(MinecraftServer server) {
+        double mspt = (System.nanoTime() - tickStartNanos) / 1_000_000.0;
+        averageMspt = ticks == 0 ? mspt : averageMspt + EWMA_ALPHA * (mspt - averageMspt);
+        ticks++;
+
+        if (ticks % EVALUATE_INTERVAL_TICKS == 0) {
+            evaluate();
+        }
+    }
+
+    private void evaluate() {
+        Tier current = tier;
+        Tier target = current;
+        Tier[] tiers = Tier.values();
+
+        // Escalate straight to the highest tier whose enter threshold is exceeded
+        for (int i = tiers.length - 1; i > current.ordinal(); i--) {
+            if (averageMspt >= tiers[i].enterMspt) {
+                target = tiers[i];
+                break;
+            }
+        }
+
+        // Recover one tier at a time, only after dwelling long enough below the exit threshold
+        if (target == current && current != Tier.FULL
+                && averageMspt < current.exitMspt
+                && ticks - tierChangedAtTick >= MIN_TIER_DWELL_TICKS) {
+            target = tiers[current.ordinal() - 1];
+        }
+
+        if (target != current) {
+            tier = target;
+            tierChangedAtTick = ticks;
+            tierChanges++;
+            ThunderPunch.LOGGER.info("ThunderPunch quality tier {} -> {} (avg {} mspt)",
+                    current, target, String.format("%.1f", averageMspt));
+            if (events.shouldRecord(EventLog.EventType.TIER_CHANGE)) {
+                events.record(EventLog.EventType.TIER_CHANGE, current.ordinal(), target.ordinal(), averageMspt);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.half;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Multi-target hit resolution for the piercing beam.
+ *
+ * Walks the beam through the 16x16x16 chunk sections it crosses (3D DDA over section
+ * coordinates) and only queries entities inside the slice of the ray that passes through
+ * each section. The work therefore grows with the length of the ray rather than with the
+ * number of entities loaded in the world.
+ */
+public final class PiercingBeam {
+    private static final int SECTION_SIZE = 16;
+    private static final double BEAM_RADIUS = 0.5; // Blocks around the ray that still count as a hit
+    private static final TypeFilter<Entity, LivingEntity> LIVING = TypeFilter.instanceOf(LivingEntity.class);
+
+    private PiercingBeam() {
+    }
+
+    public record Hit(LivingEntity entity, double distance) {
+    }
+
+    /**
+     * Collects every living entity touched by the segment {@code start -> end}, sorted by
+     * distance from {@code start}.
+     */
+    public static List<Hit> collectTargets(ServerWorld world, Entity shooter, Vec3d start, Vec3d end) {
+        List<Hit> hits = new ArrayList<>();
+        double length = start.distanceTo(end);
+        if (length < 1.0E-6) {
+            return hits;
+        }
+
+        double dx = (end.x - start.x) / length;
+        double dy = (end.y - start.y) / length;
+        double dz = (end.z - start.z) / length;
+
+        int sx = MathHelper.floor(start.x) >> 4;
+        int sy = MathHelper.floor(start.y) >> 4;
+        int sz = MathHelper.floor(start.z) >> 4;
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+
+        // Distance along the ray to the next section boundary on each axis, and per section
+        double tMaxX = boundaryDistance(start.x, dx, sx, stepX);
+        double tMaxY = boundaryDistance(start.y, dy, sy, stepY);
+        double tMaxZ = boundaryDistance(start.z, dz, sz, stepZ);
+        double tDeltaX = dx == 0 ? Double.POSITIVE_INFINITY : SECTION_SIZE / Math.abs(dx);
+        double tDeltaY = dy == 0 ? Double.POSITIVE_INFINITY : SECTION_SIZE / Math.abs(dy);
+        double tDeltaZ = dz == 0 ? Double.POSITIVE_INFINITY : SECTION_SIZE / Math.abs(dz);
+
+        IntOpenHashSet seen = new IntOpenHashSet();
+        List<LivingEntity> candidates = new ArrayList<>();
+        double tEnter = 0.0;
+
+        while (tEnter < length) {
+            double tExit = Math.min(length, Math.min(tMaxX, Math.min(tMaxY, tMaxZ)));
+
+            // Query only the part of the beam inside this section
+            Box segment = new Box(
+                    start.x + dx * tEnter, start.y + dy * tEnter, start.z + dz * tEnter,
+                    start.x + dx * tExit, start.y + dy * tExit, start.z + dz * tExit
+            ).expand(BEAM_RADIUS);
+
+            candidates.clear();
+            world.collectEntitiesByType(LIVING, segment,
+                    entity -> entity != shooter && entity.isAlive() && !entity.isSpectator() && !seen.contains(entity.getId()),
+                    candidates);
+
+            for (LivingEntity entity : candidates) {
+                Box bounds = entity.getBoundingBox().expand(BEAM_RADIUS);
+                // Like ProjectileUtil.raycast, a box around the start point is a hit at distance 0
+                if (bounds.contains(start)) {
+                    if (seen.add(entity.getId())) {
+                        hits.add(new Hit(entity, 0.0));
+                    }
+                    continue;
+                }
+                Optional<Vec3d> entry = bounds.raycast(start, end);
+                if (entry.isPresent() && seen.add(entity.getId())) {
+                    hits.add(new Hit(entity, start.distanceTo(entry.get())));
+                }
+            }
+
+            // Advance to the neighbouring section on the axis whose boundary is closest
+            if (tMaxX <= tMaxY && tMaxX <= tMaxZ) {
+                tMaxX += tDeltaX;
+            } else if (tMaxY <= tMaxZ) {
+                tMaxY += tDeltaY;
+            } else {
+                tMaxZ += tDeltaZ;
+            }
+            tEnter = tExit;
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distance));
+        return hits;
+    }
+
+    private static double boundaryDistance(double origin, double dir, int section, int step) {
+        if (dir == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double boundary = (step > 0 ? section + 1 : section) * (double) SECTION_SIZE;
+        return (boundary - origin) / dir;
+    }
+}
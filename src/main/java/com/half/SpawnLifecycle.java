@@ -0,0 +1,224 @@
+package com.half;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.passive.TameableEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * TTL tracking for mobs spawned by ThunderPunch.
+ *
+ * Every spawned entity is recorded with its spawn world time and owner in a per-world index of
+ * parallel primitive arrays. A sweep spread across ticks checks a bounded number of slots per
+ * tick and discards expired entities in small batches, so entity counts stay bounded over long
+ * sessions without ever scanning the world's entity list. Named and tamed mobs are exempt, and
+ * each owner may only have a limited number of loaded spawns at once.
+ *
+ * The spawn time and owner are also written into a command tag on the entity, so they survive
+ * chunk reloads and restarts and the TTL keeps counting from the original spawn.
+ */
+public final class SpawnLifecycle {
+    public static final String TAG_PREFIX = ThunderPunch.MOD_ID + "_spawned:";
+
+    private static final long TTL_TICKS = 20L * 60 * 5;
+    private static final int SCAN_PER_TICK = 64;
+    private static final int DESPAWN_PER_TICK = 8;
+    private static final int MAX_TRACKED_PER_OWNER = 48;
+
+    private final EventLog events;
+    private final Map<ServerWorld, Index> indices = new IdentityHashMap<>();
+    private final Object2IntOpenHashMap<UUID> ownerCounts = new Object2IntOpenHashMap<>();
+
+    public SpawnLifecycle(EventLog events) {
+        this.events = events;
+    }
+
+    public void register() {
+        ServerTickEvents.END_SERVER_TICK.register(this::onTickEnd);
+        ServerEntityEvents.ENTITY_LOAD.register(this::track);
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            Index index = indices.get(world);
+            if (index != null) {
+                int slot = index.slotOf(entity.getId());
+                if (slot >= 0) {
+                    untrack(index, slot);
+                }
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> {
+            Index index = indices.remove(world);
+            while (index != null && index.size > 0) {
+                untrack(index, index.size - 1);
+            }
+        });
+    }
+
+    /**
+     * Spawns {@code entity} and starts tracking it, unless {@code owner} already has the maximum
+     * number of tracked spawns loaded. Must be called on the server thread. Returns whether the
+     * entity was spawned.
+     */
+    public boolean spawn(ServerWorld world, Entity entity, UUID owner) {
+        if (ownerCounts.getInt(owner) >= MAX_TRACKED_PER_OWNER) return false;
+
+        entity.addCommandTag(TAG_PREFIX + world.getTime() + ":" + owner);
+        if (!world.spawnEntity(entity)) return false;
+
+        track(entity, world);
+        return true;
+    }
+
+    public int getTrackedCount() {
+        int total = 0;
+        for (Index index : indices.values()) {
+            total += index.size;
+        }
+        return total;
+    }
+
+    public int getTrackedCount(UUID owner) {
+        return ownerCounts.getInt(owner);
+    }
+
+    private void track(Entity entity, ServerWorld world) {
+        for (String tag : entity.getCommandTags()) {
+            if (!tag.startsWith(TAG_PREFIX)) continue;
+
+            Index index = indices.computeIfAbsent(world, w -> new Index());
+            if (index.slotOf(entity.getId()) >= 0) return;
+
+            // Tag layout: <prefix><spawn world time>:<owner uuid>
+            long spawnTime = world.getTime();
+            UUID owner = null;
+            try {
+                int split = tag.indexOf(':', TAG_PREFIX.length());
+                spawnTime = Long.parseLong(tag.substring(TAG_PREFIX.length(), split));
+                owner = UUID.fromString(tag.substring(split + 1));
+            } catch (RuntimeException e) {
+                ThunderPunch.LOGGER.warn("Malformed spawn tag '{}' on {}", tag, entity);
+            }
+
+            index.add(entity.getId(), spawnTime, owner);
+            if (owner != null) {
+                ownerCounts.addTo(owner, 1);
+            }
+            return;
+        }
+    }
+
+    private void untrack(Index index, int slot) {
+        long most = index.ownerMost[slot];
+        long least = index.ownerLeast[slot];
+        if (most != 0L || least != 0L) {
+            UUID owner = new UUID(most, least);
+            if (ownerCounts.addTo(owner, -1) <= 1) {
+                ownerCounts.removeInt(owner);
+            }
+        }
+        index.removeSlot(slot);
+    }
+
+    private void onTickEnd(MinecraftServer server) {
+        if (indices.isEmpty()) return;
+
+        int despawned = 0;
+        for (Map.Entry<ServerWorld, Index> entry : indices.entrySet()) {
+            despawned += sweep(entry.getKey(), entry.getValue(), DESPAWN_PER_TICK - despawned);
+            if (despawned >= DESPAWN_PER_TICK) break;
+        }
+
+        if (despawned > 0 && events.shouldRecord(EventLog.EventType.SPAWNS_DESPAWNED)) {
+            events.record(EventLog.EventType.SPAWNS_DESPAWNED, despawned, getTrackedCount());
+        }
+    }
+
+    private int sweep(ServerWorld world, Index index, int budget) {
+        long now = world.getTime();
+        int despawned = 0;
+        int scanned = 0;
+        while (scanned < SCAN_PER_TICK && despawned < budget && index.size > 0) {
+            if (index.cursor >= index.size) {
+                index.cursor = 0;
+            }
+            int slot = index.cursor;
+            scanned++;
+
+            if (now - index.spawnTimes[slot] < TTL_TICKS) {
+                index.cursor++;
+                continue;
+            }
+
+            // Expired or exempt entries leave the index; removal swaps a later slot into this one
+            Entity entity = world.getEntityById(index.ids[slot]);
+            untrack(index, slot);
+            if (entity == null || entity.isRemoved() || isExempt(entity)) {
+                continue;
+            }
+            entity.discard();
+            despawned++;
+        }
+        return despawned;
+    }
+
+    private static boolean isExempt(Entity entity) {
+        return entity.hasCustomName()
+                || (entity instanceof TameableEntity tameable && tameable.isTamed());
+    }
+
+    // Parallel primitive arrays with swap-remove, keyed by entity network id
+    private static final class Index {
+        private final Int2IntOpenHashMap slotById = new Int2IntOpenHashMap();
+        private int[] ids = new int[64];
+        private long[] spawnTimes = new long[64];
+        private long[] ownerMost = new long[64];
+        private long[] ownerLeast = new long[64];
+        private int size;
+        private int cursor;
+
+        Index() {
+            slotById.defaultReturnValue(-1);
+        }
+
+        int slotOf(int id) {
+            return slotById.get(id);
+        }
+
+        void add(int id, long spawnTime, UUID owner) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                spawnTimes = Arrays.copyOf(spawnTimes, capacity);
+                ownerMost = Arrays.copyOf(ownerMost, capacity);
+                ownerLeast = Arrays.copyOf(ownerLeast, capacity);
+            }
+            ids[size] = id;
+            spawnTimes[size] = spawnTime;
+            ownerMost[size] = owner != null ? owner.getMostSignificantBits() : 0L;
+            ownerLeast[size] = owner != null ? owner.getLeastSignificantBits() : 0L;
+            slotById.put(id, size);
+            size++;
+        }
+
+        void removeSlot(int slot) {
+            slotById.remove(ids[slot]);
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                spawnTimes[slot] = spawnTimes[last];
+                ownerMost[slot] = ownerMost[last];
+                ownerLeast[slot] = ownerLeast[last];
+                slotById.put(ids[slot], slot);
+            }
+        }
+    }
+}
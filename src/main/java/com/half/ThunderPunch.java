@@ -1,6 +1,8 @@
 package com.half;
 
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.player.AttackBlockCallback;
 import net.fabricmc.fabric.api.event.player.AttackEntityCallback;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
 import net.fabricmc.fabric.api.event.player.UseItemCallback;
@@ -17,6 +19,7 @@ import net.minecraft.entity.passive.WolfEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.ProjectileUtil;
 import net.minecraft.particle.ParticleTypes;
+import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
@@ -53,18 +56,43 @@ public class ThunderPunch implements ModInitializer {
     private static final float BASE_DAMAGE_MULTIPLIER = 3.0f;
     private static final float EXPLOSION_CHANCE = 0.13f;
     private static final float LAVA_SPAWN_CHANCE = 0.3f;
+    private static final float PIERCING_BASE_DAMAGE = 100.0f;
+    private static final double EFFECT_RADIUS = 24.0; // Blocks around an impact that must be loaded
+    private static final double RAY_CLIP_MARGIN = 0.05; // Keeps clipped rays out of the unloaded chunk's blocks
+    private static final float PIERCING_MIN_FALLOFF = 0.25f; // Damage fraction at the far end of the beam
+    private static final double CHAIN_RADIUS = 8.0;
+    private static final int CHAIN_MAX_HOPS = 4;
+    private static final float CHAIN_DAMAGE_DECAY = 0.6f; // Damage multiplier applied at each hop
     private static final LocalDate MINECRAFT_RELEASE_DATE = LocalDate.of(2011, 7, 11);
 
     // Thread-safe components
     private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(2);
     private static final AtomicBoolean CREEPER_SPAWNING_ENABLED = new AtomicBoolean(false);
     private static final Object SPAWN_LOCK = new Object();
+    private static final EventLog EVENTS = EventLog.createDefault();
+    private static final LoadShedder LOAD = new LoadShedder(EVENTS);
+    private static final ChunkPrefetcher PREFETCH = new ChunkPrefetcher(EVENTS);
+    private static final SpawnLifecycle SPAWNS = new SpawnLifecycle(EVENTS);
+    private static final HostileGrid HOSTILES = new HostileGrid();
+    private static final ComboTracker COMBOS = new ComboTracker();
+
+    // Chain lightning scratch space, only touched on the server thread
+    private static final int[] CHAIN_VISITED = new int[CHAIN_MAX_HOPS + 1];
+    private static final LivingEntity[] CHAIN_NEXT = new LivingEntity[1];
 
     @Override
     public void onInitialize() {
         LOGGER.info("ThunderPunch v2.0 Enterprise Edition loaded!");
 
+        EVENTS.start();
+        LOAD.register();
+        PREFETCH.register();
+        SPAWNS.register();
+        HOSTILES.register();
+        COMBOS.register();
+
         registerEventHandlers();
+        registerCommands();
 
         // Shutdown hook for cleanup
         Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
@@ -79,6 +107,31 @@ public class ThunderPunch implements ModInitializer {
 
         // Attack entity trigger
         AttackEntityCallback.EVENT.register(this::handleEntityAttack);
+
+        // Block left-click trigger
+        AttackBlockCallback.EVENT.register(this::handleBlockAttack);
+    }
+
+    private void registerCommands() {
+        CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) ->
+                dispatcher.register(CommandManager.literal(MOD_ID)
+                        .requires(source -> source.hasPermissionLevel(2))
+                        .then(CommandManager.literal("load").executes(context -> {
+                            LoadShedder.Tier tier = LOAD.getTier();
+                            String message = String.format("Quality tier: %s (avg %.1f mspt, %d tier changes, %d pending prefetches)",
+                                    tier, LOAD.getAverageMspt(), LOAD.getTierChanges(), PREFETCH.getPendingCount());
+                            context.getSource().sendFeedback(() -> Text.literal(message), false);
+                            return 1;
+                        }))
+                        .then(CommandManager.literal("spawns").executes(context -> {
+                            int tracked = SPAWNS.getTrackedCount();
+                            ServerPlayerEntity self = context.getSource().getPlayer();
+                            String message = self != null
+                                    ? String.format("Tracked ThunderPunch spawns: %d (%d yours)", tracked, SPAWNS.getTrackedCount(self.getUuid()))
+                                    : "Tracked ThunderPunch spawns: " + tracked;
+                            context.getSource().sendFeedback(() -> Text.literal(message), false);
+                            return tracked;
+                        }))));
     }
 
     private ActionResult handleEmptyHandUse(PlayerEntity player, World world, net.minecraft.util.Hand hand) {
@@ -103,6 +156,20 @@ public class ThunderPunch implements ModInitializer {
         return ActionResult.PASS;
     }
 
+    private ActionResult handleBlockAttack(PlayerEntity player, World world, net.minecraft.util.Hand hand, BlockPos pos, Direction direction) {
+        if (world.isClient || !player.getStackInHand(hand).isEmpty()) {
+            return ActionResult.PASS;
+        }
+
+        // Sneaking left-click fires the piercing beam instead of mining
+        if (player.isSneaking()) {
+            performPiercingBeam(world, player);
+            return ActionResult.SUCCESS;
+        }
+
+        return ActionResult.PASS;
+    }
+
     private ActionResult handleEntityAttack(PlayerEntity player, World world, net.minecraft.util.Hand hand, Entity target, net.minecraft.util.hit.EntityHitResult hitResult) {
         if (world.isClient || !(target instanceof LivingEntity livingTarget) || target == player) {
             return ActionResult.PASS;
@@ -122,9 +189,15 @@ public class ThunderPunch implements ModInitializer {
         applyDefensiveBuff(player);
 
         // Calculate and apply damage
-        float damage = calculateDamage(player);
+        ComboTracker.HitHistory combo = recordHit(world, player, target, ComboTracker.HitType.MELEE);
+        float damage = calculateDamage(player, combo);
         applyDamage(world, player, target, damage);
 
+        // Full combo finisher
+        if (combo != null && combo.isFinisher()) {
+            applyComboFinisher(world, player, combo);
+        }
+
         // Apply effects based on time and date
         applyTimeBasedEffects(world, player, target);
 
@@ -146,13 +219,31 @@ public class ThunderPunch implements ModInitializer {
         }
     }
 
-    private float calculateDamage(PlayerEntity player) {
+    private float calculateDamage(PlayerEntity player, ComboTracker.HitHistory combo) {
         double baseAttack = 1.0;
         var attr = player.getAttributeInstance(EntityAttributes.ATTACK_KNOCKBACK);
         if (attr != null) {
             baseAttack = attr.getValue();
         }
-        return (float) (baseAttack * BASE_DAMAGE_MULTIPLIER);
+        float comboMultiplier = combo != null ? combo.getMultiplier() : 1.0f;
+        return (float) (baseAttack * BASE_DAMAGE_MULTIPLIER * comboMultiplier);
+    }
+
+    // Combo system
+    private ComboTracker.HitHistory recordHit(World world, PlayerEntity player, LivingEntity target, ComboTracker.HitType type) {
+        return COMBOS.record(player, target.getId(), type, ((ServerWorld) world).getServer().getTicks());
+    }
+
+    private void applyComboFinisher(World world, PlayerEntity player, ComboTracker.HitHistory combo) {
+        if (EVENTS.shouldRecord(EventLog.EventType.COMBO_FINISHER)) {
+            EVENTS.record(EventLog.EventType.COMBO_FINISHER, combo.getStreak(), combo.getMultiplier());
+        }
+
+        player.addStatusEffect(new StatusEffectInstance(StatusEffects.STRENGTH, 100, 1));
+        world.playSound(null, player.getX(), player.getY(), player.getZ(),
+                SoundEvents.ENTITY_PLAYER_ATTACK_CRIT, SoundCategory.PLAYERS, 1.0f, 0.5f);
+        sendMessage(player, "Combo x" + combo.getStreak() + "!");
+        combo.resetStreak();
     }
 
     private void applyDamage(World world, PlayerEntity player, LivingEntity target, float damage) {
@@ -169,13 +260,15 @@ public class ThunderPunch implements ModInitializer {
             target.damage((ServerWorld) world, source, damage * 2.0f);
         }
 
-        // Lightning strike on target
+        // Lightning strike on target, arcing on to nearby hostiles
         spawnLightning(world, target.getX(), target.getY(), target.getZ());
+        chainLightning(world, player, target, damage);
 
         // Explosion chance
-        if (ThreadLocalRandom.current().nextFloat() < EXPLOSION_CHANCE) {
+        float explosionScale = LOAD.getTier().getExplosionScale();
+        if (explosionScale > 0 && ThreadLocalRandom.current().nextFloat() < EXPLOSION_CHANCE) {
             BlockPos pos = target.getBlockPos();
-            world.createExplosion(null, pos.getX(), pos.getY(), pos.getZ(), 2.0f, World.ExplosionSourceType.NONE);
+            world.createExplosion(null, pos.getX(), pos.getY(), pos.getZ(), 2.0f * explosionScale, World.ExplosionSourceType.NONE);
         }
     }
 
@@ -229,24 +322,24 @@ public class ThunderPunch implements ModInitializer {
 
         switch (dayOfWeek) {
             case 1: // Monday - Tigers (Ocelots)
-                spawnOcelot(world, x, y, z);
+                if (shouldSpawn()) spawnOcelot(world, player, x, y, z);
                 break;
             case 2: // Tuesday - Spiders
-                spawnSpider(world, x, y, z);
+                if (shouldSpawn()) spawnSpider(world, player, x, y, z);
                 break;
             case 3: // Wednesday - Zombie Villagers
-                spawnZombieVillager(world, x, y, z);
+                if (shouldSpawn()) spawnZombieVillager(world, player, x, y, z);
                 break;
             case 4: // Thursday - Blazes
-                spawnBlaze(world, x, y, z);
+                if (shouldSpawn()) spawnBlaze(world, player, x, y, z);
                 break;
             case 5: // Friday - Witches + Regeneration
-                spawnWitch(world, x, y, z);
+                if (shouldSpawn()) spawnWitch(world, player, x, y, z);
                 player.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, 600, 0));
                 break;
             case 6: // Saturday - Wolves + Easy mode
             case 7: // Sunday - Wolves + Easy mode
-                spawnWolf(world, x, y, z);
+                if (shouldSpawn()) spawnWolf(world, player, x, y, z);
                 player.setHealth(20.0f);
                 break;
         }
@@ -257,7 +350,7 @@ public class ThunderPunch implements ModInitializer {
 
         if (secondsSinceRelease % 2011 == 0) {
             enableCreeperSpawning(world, player);
-        } else {
+        } else if (shouldSpawn()) {
             spawnVillager(world, player);
         }
     }
@@ -277,15 +370,21 @@ public class ThunderPunch implements ModInitializer {
         // Spawn 1-2 zombies
         int zombieCount = 1 + ThreadLocalRandom.current().nextInt(2);
         for (int i = 0; i < zombieCount; i++) {
-            spawnZombieNearPlayer(world, player);
+            if (shouldSpawn()) spawnZombieNearPlayer(world, player);
         }
 
         // Spawn lava randomly
-        if (ThreadLocalRandom.current().nextFloat() < LAVA_SPAWN_CHANCE) {
+        if (shouldSpawn() && ThreadLocalRandom.current().nextFloat() < LAVA_SPAWN_CHANCE) {
             spawnLavaNearPlayer(world, player);
         }
     }
 
+    // Thins out spawns according to the current quality tier
+    private boolean shouldSpawn() {
+        float spawnScale = LOAD.getTier().getSpawnScale();
+        return spawnScale >= 1.0f || ThreadLocalRandom.current().nextFloat() < spawnScale;
+    }
+
     private void applyRandomEffects(World world, PlayerEntity player) {
         var random = ThreadLocalRandom.current();
 
@@ -316,20 +415,42 @@ public class ThunderPunch implements ModInitializer {
     }
 
     private void performExplosiveRaycast(World world, PlayerEntity player) {
-        if (world.isClient) return;
+        if (!(world instanceof ServerWorld serverWorld)) return;
 
         try {
-            RaycastResult result = performRaycast(world, player);
-            executeExplosiveAttack(world, player, result);
+            Vec3d startPos = player.getEyePos();
+            Vec3d endPos = startPos.add(player.getRotationVector().multiply(RAYCAST_RANGE));
+            resolveExplosiveRaycast(serverWorld, player, startPos, endPos);
         } catch (Exception e) {
             LOGGER.error("Error performing explosive raycast", e);
         }
     }
 
-    private RaycastResult performRaycast(World world, PlayerEntity player) {
-        Vec3d startPos = player.getEyePos();
-        Vec3d lookDir = player.getRotationVector();
-        Vec3d endPos = startPos.add(lookDir.multiply(RAYCAST_RANGE));
+    private void resolveExplosiveRaycast(ServerWorld world, PlayerEntity player, Vec3d startPos, Vec3d endPos) {
+        // Only trace through loaded chunks so the raycast never loads or generates terrain
+        double length = startPos.distanceTo(endPos);
+        double loaded = PREFETCH.loadedRayLength(world, startPos, endPos);
+        Vec3d tracedEnd = loaded < length ? pointAlong(startPos, endPos, loaded - RAY_CLIP_MARGIN) : endPos;
+
+        RaycastResult result = performRaycast(world, player, startPos, tracedEnd);
+        if (result.getType() == RaycastResult.Type.MISS && loaded < length) {
+            // The ray reached an unloaded chunk: resume tracing once it has loaded
+            PREFETCH.submit(world, player.getUuid(), pointAlong(startPos, endPos, loaded + RAY_CLIP_MARGIN), 0.0,
+                    () -> resolveExplosiveRaycast(world, player, startPos, endPos));
+            return;
+        }
+
+        // Effects wait until the chunks around the impact are loaded
+        PREFETCH.submit(world, player.getUuid(), result.getHitPos(), EFFECT_RADIUS,
+                () -> executeExplosiveAttack(world, player, result));
+    }
+
+    private Vec3d pointAlong(Vec3d start, Vec3d end, double distance) {
+        Vec3d direction = end.subtract(start).normalize();
+        return start.add(direction.multiply(Math.max(0.0, distance)));
+    }
+
+    private RaycastResult performRaycast(World world, PlayerEntity player, Vec3d startPos, Vec3d endPos) {
         BlockPos blockPos = player.getBlockPos();
         Direction direction = player.getHorizontalFacing();
         BlockPos endBlockPos = blockPos.offset(direction);
@@ -365,16 +486,23 @@ public class ThunderPunch implements ModInitializer {
         Entity hitEntity = result.getEntity();
 
         // Log the hit
-        LOGGER.info("Explosive raycast hit {} at distance {}",
-                result.getType().name(),
-                player.getEyePos().distanceTo(hitPos));
+        EventLog.EventType eventType = switch (result.getType()) {
+            case ENTITY -> EventLog.EventType.RAYCAST_ENTITY;
+            case BLOCK -> EventLog.EventType.RAYCAST_BLOCK;
+            case MISS -> EventLog.EventType.RAYCAST_MISS;
+        };
+        if (EVENTS.shouldRecord(eventType)) {
+            EVENTS.record(eventType, player.getEyePos().distanceTo(hitPos), hitPos.x, hitPos.y, hitPos.z);
+        }
 
         // Create explosion with random power
-        float explosionPower = ThreadLocalRandom.current().nextFloat() * 15.0f + 5.0f;
-        world.createExplosion(player, hitPos.x, hitPos.y, hitPos.z, explosionPower, World.ExplosionSourceType.TNT);
+        float explosionPower = (ThreadLocalRandom.current().nextFloat() * 15.0f + 5.0f) * LOAD.getTier().getExplosionScale();
+        if (explosionPower > 0) {
+            world.createExplosion(player, hitPos.x, hitPos.y, hitPos.z, explosionPower, World.ExplosionSourceType.TNT);
+        }
 
         // Handle entity damage
-        if (hitEntity instanceof LivingEntity livingEntity) {
+        if (hitEntity instanceof LivingEntity livingEntity && livingEntity.isAlive()) {
             applyRaycastDamage(world, player, livingEntity, hitPos);
         }
 
@@ -382,7 +510,82 @@ public class ThunderPunch implements ModInitializer {
         createExplosionEffects(world, player.getEyePos(), hitPos);
     }
 
+    // Piercing beam system
+    private void performPiercingBeam(World world, PlayerEntity player) {
+        if (!(world instanceof ServerWorld serverWorld)) return;
+
+        try {
+            Vec3d startPos = player.getEyePos();
+            Vec3d endPos = startPos.add(player.getRotationVector().multiply(RAYCAST_RANGE));
+            resolvePiercingBeam(serverWorld, player, startPos, endPos);
+        } catch (Exception e) {
+            LOGGER.error("Error performing piercing beam", e);
+        }
+    }
+
+    private void resolvePiercingBeam(ServerWorld world, PlayerEntity player, Vec3d startPos, Vec3d endPos) {
+        // Only trace through loaded chunks so the beam never loads or generates terrain
+        double length = startPos.distanceTo(endPos);
+        double loaded = PREFETCH.loadedRayLength(world, startPos, endPos);
+        Vec3d tracedEnd = loaded < length ? pointAlong(startPos, endPos, loaded - RAY_CLIP_MARGIN) : endPos;
+
+        // The beam passes through entities but stops at the first block
+        BlockHitResult blockHit = world.raycast(new RaycastContext(
+                startPos, tracedEnd,
+                RaycastContext.ShapeType.COLLIDER,
+                RaycastContext.FluidHandling.NONE,
+                player
+        ));
+
+        Vec3d beamEnd;
+        if (blockHit.getType() != HitResult.Type.MISS) {
+            beamEnd = blockHit.getPos();
+        } else if (loaded < length) {
+            // The beam reached an unloaded chunk: resume tracing once it has loaded
+            PREFETCH.submit(world, player.getUuid(), pointAlong(startPos, endPos, loaded + RAY_CLIP_MARGIN), 0.0,
+                    () -> resolvePiercingBeam(world, player, startPos, endPos));
+            return;
+        } else {
+            beamEnd = endPos;
+        }
+
+        // Targets are resolved when the effect runs so a deferred beam never hits stale positions
+        PREFETCH.submit(world, player.getUuid(), beamEnd, EFFECT_RADIUS,
+                () -> executePiercingAttack(world, player, startPos, beamEnd));
+    }
+
+    private void executePiercingAttack(ServerWorld world, PlayerEntity player, Vec3d startPos, Vec3d endPos) {
+        List<PiercingBeam.Hit> hits = PiercingBeam.collectTargets(world, player, startPos, endPos);
+        DamageSource source = world.getDamageSources().playerAttack(player);
+        Vec3d beamDir = endPos.subtract(startPos).normalize();
+
+        // The beam counts as a single hit on its nearest target for combos
+        if (!hits.isEmpty()) {
+            recordHit(world, player, hits.get(0).entity(), ComboTracker.HitType.PIERCING);
+        }
+
+        for (PiercingBeam.Hit hit : hits) {
+            // Linear falloff along the full range, never below the minimum fraction
+            float falloff = (float) Math.max(PIERCING_MIN_FALLOFF, 1.0 - hit.distance() / RAYCAST_RANGE);
+            LivingEntity target = hit.entity();
+            target.damage(world, source, PIERCING_BASE_DAMAGE * falloff);
+            target.takeKnockback(5.0f * falloff, -beamDir.x, -beamDir.z);
+        }
+
+        if (EVENTS.shouldRecord(EventLog.EventType.PIERCING_BEAM)) {
+            EVENTS.record(EventLog.EventType.PIERCING_BEAM, hits.size(), startPos.distanceTo(endPos), endPos.x, endPos.y, endPos.z);
+        }
+
+        // One coalesced explosion and lightning strike at the end of the beam
+        float explosionPower = 6.0f * LOAD.getTier().getExplosionScale();
+        if (explosionPower > 0) {
+            world.createExplosion(player, endPos.x, endPos.y, endPos.z, explosionPower, World.ExplosionSourceType.TNT);
+        }
+        createExplosionEffects(world, startPos, endPos);
+    }
+
     private void applyRaycastDamage(World world, PlayerEntity player, LivingEntity target, Vec3d hitPos) {
+        recordHit(world, player, target, ComboTracker.HitType.RAYCAST);
         DamageSource source = world.getDamageSources().playerAttack(player);
         target.damage((ServerWorld) world, source, 100.0f);
 
@@ -393,6 +596,43 @@ public class ThunderPunch implements ModInitializer {
 
         // Lightning strike
         spawnLightning(world, target.getX(), target.getY(), target.getZ());
+        chainLightning(world, player, target, 100.0f);
+    }
+
+    private void chainLightning(World world, PlayerEntity player, LivingEntity origin, float damage) {
+        if (!(world instanceof ServerWorld serverWorld) || LOAD.getTier().isVisualOnlyLightning()) return;
+
+        DamageSource source = world.getDamageSources().playerAttack(player);
+        int[] visited = CHAIN_VISITED;
+        int visitedCount = 0;
+        visited[visitedCount++] = origin.getId();
+
+        double x = origin.getX();
+        double y = origin.getY();
+        double z = origin.getZ();
+        float hopDamage = damage;
+
+        for (int hop = 0; hop < CHAIN_MAX_HOPS; hop++) {
+            if (HOSTILES.findNearest(serverWorld, x, y, z, CHAIN_RADIUS, visited, visitedCount, CHAIN_NEXT) == 0) {
+                break;
+            }
+            LivingEntity next = CHAIN_NEXT[0];
+            CHAIN_NEXT[0] = null;
+            visited[visitedCount++] = next.getId();
+
+            hopDamage *= CHAIN_DAMAGE_DECAY;
+            next.damage(serverWorld, source, hopDamage);
+
+            // Visual-only bolt so the arc does not set fires or damage bystanders
+            LightningEntity bolt = new LightningEntity(EntityType.LIGHTNING_BOLT, world);
+            bolt.setPosition(next.getX(), next.getY(), next.getZ());
+            bolt.setCosmetic(true);
+            world.spawnEntity(bolt);
+
+            x = next.getX();
+            y = next.getY();
+            z = next.getZ();
+        }
     }
 
     private void createExplosionEffects(World world, Vec3d startPos, Vec3d hitPos) {
@@ -413,9 +653,12 @@ public class ThunderPunch implements ModInitializer {
     private void createParticleTrail(World world, Vec3d start, Vec3d end) {
         if (world.isClient) return;
 
+        double density = LOAD.getTier().getParticleDensity();
+        if (density <= 0) return;
+
         Vec3d direction = end.subtract(start).normalize();
         double distance = start.distanceTo(end);
-        double step = Math.max(1.0, distance / 100.0); // Optimize particle count
+        double step = Math.max(1.0, distance / 100.0) / density; // Optimize particle count, then thin by tier
 
         for (double i = 0; i < distance; i += step) {
             Vec3d particlePos = start.add(direction.multiply(i));
@@ -449,9 +692,11 @@ public class ThunderPunch implements ModInitializer {
     private void scheduleCreeperSpawn(World world, PlayerEntity player) {
         int delaySeconds = ThreadLocalRandom.current().nextInt(40, 191); // 40-190 seconds
 
-        SCHEDULER.schedule(() -> {
+        // The timer runs on the scheduler, the spawn itself is handed back to the server thread
+        SCHEDULER.schedule(() -> ((ServerWorld) world).getServer().execute(() -> {
             try {
-                if (CREEPER_SPAWNING_ENABLED.get() && !world.isClient) {
+                // Shed by the quality tier at spawn time, not when it was scheduled
+                if (CREEPER_SPAWNING_ENABLED.get() && !world.isClient && shouldSpawn()) {
                     spawnCreeper(world, player);
                 }
             } catch (Exception e) {
@@ -459,9 +704,11 @@ public class ThunderPunch implements ModInitializer {
             } finally {
                 CREEPER_SPAWNING_ENABLED.set(false);
             }
-        }, delaySeconds, TimeUnit.SECONDS);
+        }), delaySeconds, TimeUnit.SECONDS);
 
-        LOGGER.info("Creeper scheduled to spawn in {} seconds", delaySeconds);
+        if (EVENTS.shouldRecord(EventLog.EventType.CREEPER_SCHEDULED)) {
+            EVENTS.record(EventLog.EventType.CREEPER_SCHEDULED, delaySeconds);
+        }
     }
 
     // Entity spawning methods
@@ -472,12 +719,16 @@ public class ThunderPunch implements ModInitializer {
         creeper.refreshPositionAndAngles(spawnPos.x, spawnPos.y, spawnPos.z,
                 ThreadLocalRandom.current().nextFloat() * 360f, 0);
 
-        world.spawnEntity(creeper);
+        if (!SPAWNS.spawn((ServerWorld) world, creeper, player.getUuid())) {
+            return;
+        }
 
         world.playSound(null, player.getX(), player.getY(), player.getZ(),
                 SoundEvents.ENTITY_CREEPER_PRIMED, SoundCategory.HOSTILE, 1.0f, 1.0f);
 
-        LOGGER.info("Creeper spawned at {}", spawnPos);
+        if (EVENTS.shouldRecord(EventLog.EventType.CREEPER_SPAWNED)) {
+            EVENTS.record(EventLog.EventType.CREEPER_SPAWNED, spawnPos.x, spawnPos.y, spawnPos.z);
+        }
     }
 
     private void spawnZombieNearPlayer(World world, PlayerEntity player) {
@@ -487,7 +738,7 @@ public class ThunderPunch implements ModInitializer {
         zombie.refreshPositionAndAngles(spawnPos.x, spawnPos.y, spawnPos.z,
                 ThreadLocalRandom.current().nextFloat() * 360f, 0);
 
-        world.spawnEntity(zombie);
+        SPAWNS.spawn((ServerWorld) world, zombie, player.getUuid());
     }
 
     private void spawnLavaNearPlayer(World world, PlayerEntity player) {
@@ -522,48 +773,50 @@ public class ThunderPunch implements ModInitializer {
 
         VillagerEntity villager = new VillagerEntity(EntityType.VILLAGER, world);
         villager.refreshPositionAndAngles(spawnPos.x, spawnPos.y, spawnPos.z, 0, 0);
-        world.spawnEntity(villager);
+        SPAWNS.spawn((ServerWorld) world, villager, player.getUuid());
     }
 
-    private void spawnWolf(World world, double x, double y, double z) {
+    private void spawnWolf(World world, PlayerEntity owner, double x, double y, double z) {
         WolfEntity wolf = new WolfEntity(EntityType.WOLF, world);
         wolf.refreshPositionAndAngles(x, y, z, 0, 0);
-        world.spawnEntity(wolf);
+        SPAWNS.spawn((ServerWorld) world, wolf, owner.getUuid());
     }
 
-    private void spawnOcelot(World world, double x, double y, double z) {
+    private void spawnOcelot(World world, PlayerEntity owner, double x, double y, double z) {
         OcelotEntity ocelot = new OcelotEntity(EntityType.OCELOT, world);
         ocelot.refreshPositionAndAngles(x, y, z, 0, 0);
-        world.spawnEntity(ocelot);
+        SPAWNS.spawn((ServerWorld) world, ocelot, owner.getUuid());
     }
 
-    private void spawnSpider(World world, double x, double y, double z) {
+    private void spawnSpider(World world, PlayerEntity owner, double x, double y, double z) {
         SpiderEntity spider = new SpiderEntity(EntityType.SPIDER, world);
         spider.refreshPositionAndAngles(x, y, z, 0, 0);
-        world.spawnEntity(spider);
+        SPAWNS.spawn((ServerWorld) world, spider, owner.getUuid());
     }
 
-    private void spawnZombieVillager(World world, double x, double y, double z) {
+    private void spawnZombieVillager(World world, PlayerEntity owner, double x, double y, double z) {
         ZombieVillagerEntity zombieVillager = new ZombieVillagerEntity(EntityType.ZOMBIE_VILLAGER, world);
         zombieVillager.refreshPositionAndAngles(x, y, z, 0, 0);
-        world.spawnEntity(zombieVillager);
+        SPAWNS.spawn((ServerWorld) world, zombieVillager, owner.getUuid());
     }
 
-    private void spawnBlaze(World world, double x, double y, double z) {
+    private void spawnBlaze(World world, PlayerEntity owner, double x, double y, double z) {
         BlazeEntity blaze = new BlazeEntity(EntityType.BLAZE, world);
         blaze.refreshPositionAndAngles(x, y, z, 0, 0);
-        world.spawnEntity(blaze);
+        SPAWNS.spawn((ServerWorld) world, blaze, owner.getUuid());
     }
 
-    private void spawnWitch(World world, double x, double y, double z) {
+    private void spawnWitch(World world, PlayerEntity owner, double x, double y, double z) {
         WitchEntity witch = new WitchEntity(EntityType.WITCH, world);
         witch.refreshPositionAndAngles(x, y, z, 0, 0);
-        world.spawnEntity(witch);
+        SPAWNS.spawn((ServerWorld) world, witch, owner.getUuid());
     }
 
     private void spawnLightning(World world, double x, double y, double z) {
         LightningEntity lightning = new LightningEntity(EntityType.LIGHTNING_BOLT, world);
         lightning.setPosition(x, y, z);
+        // Under load lightning keeps its visuals but skips fire and damage
+        lightning.setCosmetic(LOAD.getTier().isVisualOnlyLightning());
         world.spawnEntity(lightning);
     }
 
@@ -586,6 +839,7 @@ public class ThunderPunch implements ModInitializer {
             SCHEDULER.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        EVENTS.close();
         LOGGER.info("ThunderPunch shutdown complete");
     }
 